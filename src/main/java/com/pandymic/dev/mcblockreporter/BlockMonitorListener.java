@@ -27,22 +27,30 @@ public class BlockMonitorListener implements Listener {
             return;
         }
 
-        // Check if an update for this location is already on cooldown (i.e., scheduled this tick)
-        if (plugin.isLocationOnUpdateCooldown(loc)) {
+        // Add to cooldown before scheduling. The add is atomic, so if an update for this location
+        // is already on cooldown (i.e., scheduled this tick), possibly by another region thread, bail out.
+        if (!plugin.addLocationToUpdateCooldown(loc)) {
             return;
         }
-        plugin.addLocationToUpdateCooldown(loc); // Add to cooldown before scheduling
 
-        // Schedule the task to run on the next server tick
+        // Schedule the task to run on the next tick of the thread owning this block
+        // (the main thread, or the block's region thread on region-threaded servers).
         // This can help avoid issues with getting block state during an event
-        // and ensures operations are main-thread safe if they involve Bukkit API for world modification (though we are just reading)
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
+        // and ensures operations are thread safe if they involve Bukkit API for world modification (though we are just reading)
+        BlockTaskScheduler scheduler = plugin.getBlockTaskScheduler();
+        boolean scheduled = scheduler.runAt(loc, () -> {
             plugin.handleMonitoredBlockUpdate(block);
             // Schedule removal from cooldown for the next tick.
             // This ensures that any other events in the *current* tick for this same block
             // won't trigger another update, but it will be eligible again next tick.
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> plugin.removeLocationFromUpdateCooldown(loc), 1L);
+            if (!scheduler.runAtLater(loc, () -> plugin.removeLocationFromUpdateCooldown(loc), 1L)) {
+                plugin.removeLocationFromUpdateCooldown(loc);
+            }
         });
+        // Never leave a location stuck on cooldown when its update will not run
+        if (!scheduled) {
+            plugin.removeLocationFromUpdateCooldown(loc);
+        }
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
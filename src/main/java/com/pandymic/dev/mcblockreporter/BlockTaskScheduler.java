@@ -0,0 +1,134 @@
+package com.pandymic.dev.mcblockreporter;
+
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Schedules work against the thread that owns a given block location.
+ * <p>
+ * On region-threaded servers (Folia) tasks are handed to the server's region scheduler so they
+ * run on the thread that ticks the location's region. Everywhere else they fall back to the
+ * regular Bukkit scheduler, i.e. the main thread. The region scheduler is looked up reflectively
+ * because the plugin compiles against the plain Spigot API. If a region-threaded server is detected
+ * but its region scheduler cannot be resolved, {@link #isAvailable()} returns false and the plugin
+ * must not schedule anything, since the Bukkit scheduler is unsupported there.
+ */
+public class BlockTaskScheduler {
+
+    private static final String REGIONIZED_SERVER_CLASS = "io.papermc.paper.threadedregions.RegionizedServer";
+
+    private final Plugin plugin;
+    private final boolean regionThreaded;
+    private Object regionScheduler; // null when not running on a region-threaded server, or when lookup failed
+    private Method regionRun;
+    private Method regionRunDelayed;
+    private Method ownedByCurrentRegion;
+
+    public BlockTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+        this.regionThreaded = detectRegionThreaded();
+        if (regionThreaded) {
+            lookupRegionScheduler();
+        }
+    }
+
+    private static boolean detectRegionThreaded() {
+        try {
+            Class.forName(REGIONIZED_SERVER_CLASS);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false; // Not Folia, use the Bukkit scheduler
+        }
+    }
+
+    private void lookupRegionScheduler() {
+        try {
+            Class<?> schedulerClass = Class.forName("io.papermc.paper.threadedregions.scheduler.RegionScheduler");
+            regionRun = schedulerClass.getMethod("run", Plugin.class, Location.class, Consumer.class);
+            regionRunDelayed = schedulerClass.getMethod("runDelayed", Plugin.class, Location.class, Consumer.class, long.class);
+            ownedByCurrentRegion = Server.class.getMethod("isOwnedByCurrentRegion", Location.class);
+            regionScheduler = Server.class.getMethod("getRegionScheduler").invoke(plugin.getServer());
+        } catch (ReflectiveOperationException e) {
+            plugin.getLogger().log(Level.SEVERE, "Region-threaded server detected but its region scheduler could not be resolved.", e);
+            regionScheduler = null;
+        }
+    }
+
+    public boolean isRegionThreaded() {
+        return regionThreaded;
+    }
+
+    // False when running on a region-threaded server whose scheduler could not be resolved; nothing can be scheduled then
+    public boolean isAvailable() {
+        return !regionThreaded || regionScheduler != null;
+    }
+
+    // Whether the current thread owns the location, i.e. block state can be read without scheduling
+    public boolean isOwnedByCurrentThread(Location location) {
+        if (!regionThreaded) {
+            return plugin.getServer().isPrimaryThread();
+        }
+        try {
+            return (Boolean) ownedByCurrentRegion.invoke(plugin.getServer(), location);
+        } catch (ReflectiveOperationException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to check region ownership of " + location + ".", e);
+            return false;
+        }
+    }
+
+    // Run the task right away if the current thread owns the location, otherwise schedule it like runAt.
+    // Returns false if the task could not be scheduled and will never run.
+    public boolean runNowOrAt(Location location, Runnable task) {
+        if (isOwnedByCurrentThread(location)) {
+            task.run();
+            return true;
+        }
+        return runAt(location, task);
+    }
+
+    // Run the task on the next tick of the thread owning the location.
+    // Returns false if the task could not be scheduled and will never run.
+    public boolean runAt(Location location, Runnable task) {
+        if (regionScheduler == null) {
+            try {
+                plugin.getServer().getScheduler().runTask(plugin, task);
+                return true;
+            } catch (IllegalArgumentException | IllegalPluginAccessException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to schedule task on Bukkit scheduler.", e);
+                return false;
+            }
+        }
+        return invokeRegionScheduler(regionRun, plugin, location, (Consumer<Object>) scheduledTask -> task.run());
+    }
+
+    // Run the task after delayTicks on the thread owning the location.
+    // Returns false if the task could not be scheduled and will never run.
+    public boolean runAtLater(Location location, Runnable task, long delayTicks) {
+        if (regionScheduler == null) {
+            try {
+                plugin.getServer().getScheduler().runTaskLater(plugin, task, delayTicks);
+                return true;
+            } catch (IllegalArgumentException | IllegalPluginAccessException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to schedule task on Bukkit scheduler.", e);
+                return false;
+            }
+        }
+        return invokeRegionScheduler(regionRunDelayed, plugin, location, (Consumer<Object>) scheduledTask -> task.run(), delayTicks);
+    }
+
+    private boolean invokeRegionScheduler(Method method, Object... args) {
+        try {
+            method.invoke(regionScheduler, args);
+            return true;
+        } catch (ReflectiveOperationException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to schedule task on region scheduler.", e);
+            return false;
+        }
+    }
+}
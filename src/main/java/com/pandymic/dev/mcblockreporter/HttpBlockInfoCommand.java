@@ -38,12 +38,18 @@ public class HttpBlockInfoCommand implements CommandExecutor {
                 if (args.length == 4) {
                     String potentialSelector = args[3];
                     if (potentialSelector.startsWith("@")) {
-                        List<Entity> targets = Bukkit.selectEntities(sender, potentialSelector);
-                        if (!targets.isEmpty()) {
-                            extraData = targets.stream().map(Entity::getName).collect(Collectors.toList());
-                        } else {
+                        if (plugin.getBlockTaskScheduler().isRegionThreaded()) {
+                            // Bukkit.selectEntities is not supported on region-threaded servers (Folia)
                             extraData = potentialSelector;
-                            sender.sendMessage(ChatColor.YELLOW + "Target selector '" + potentialSelector + "' did not match any entities. Sending as a string.");
+                            sender.sendMessage(ChatColor.YELLOW + "Target selectors are not supported on this server. Sending '" + potentialSelector + "' as a string.");
+                        } else {
+                            List<Entity> targets = Bukkit.selectEntities(sender, potentialSelector);
+                            if (!targets.isEmpty()) {
+                                extraData = targets.stream().map(Entity::getName).collect(Collectors.toList());
+                            } else {
+                                extraData = potentialSelector;
+                                sender.sendMessage(ChatColor.YELLOW + "Target selector '" + potentialSelector + "' did not match any entities. Sending as a string.");
+                            }
                         }
                     } else {
                         extraData = potentialSelector;
@@ -57,13 +63,26 @@ public class HttpBlockInfoCommand implements CommandExecutor {
                     location = new Location(plugin.getServer().getWorlds().get(0), x, y, z);
                 }
 
-                if (commandName.equals("httpblockinfo")) {
-                    plugin.sendBlockData(location, extraData);
-                    sender.sendMessage(ChatColor.GREEN + "Retrieving and sending block information for " + x + ", " + y + ", " + z + (extraData != null ? " with extra data: " + extraData : "") + "...");
-                } else if (commandName.equals("localblockinfo")) {
-                    String jsonData = plugin.buildBlockDataJson(location, extraData);
-                    sender.sendMessage(ChatColor.AQUA + "Block Data JSON for " + x + ", " + y + ", " + z + (extraData != null ? " with extra data: " + extraData : "") + ":");
-                    sender.sendMessage(jsonData);
+                // The block has to be read on the thread owning its location (its region thread on Folia).
+                // Runs inline when the command thread already owns it, which is always the case on Spigot/Paper.
+                Object finalExtraData = extraData;
+                boolean scheduled = plugin.getBlockTaskScheduler().runNowOrAt(location, () -> {
+                    try {
+                        if (commandName.equals("httpblockinfo")) {
+                            plugin.sendBlockData(location, finalExtraData);
+                            sender.sendMessage(ChatColor.GREEN + "Retrieving and sending block information for " + x + ", " + y + ", " + z + (finalExtraData != null ? " with extra data: " + finalExtraData : "") + "...");
+                        } else {
+                            String jsonData = plugin.buildBlockDataJson(location, finalExtraData);
+                            sender.sendMessage(ChatColor.AQUA + "Block Data JSON for " + x + ", " + y + ", " + z + (finalExtraData != null ? " with extra data: " + finalExtraData : "") + ":");
+                            sender.sendMessage(jsonData);
+                        }
+                    } catch (Exception e) {
+                        sender.sendMessage(ChatColor.RED + "An error occurred while processing the command: " + e.getMessage());
+                        plugin.getLogger().log(java.util.logging.Level.SEVERE, "Error processing httpblockinfo command:", e);
+                    }
+                });
+                if (!scheduled) {
+                    sender.sendMessage(ChatColor.RED + "Could not schedule the block lookup. See the server log for details.");
                 }
                 
                 return true;
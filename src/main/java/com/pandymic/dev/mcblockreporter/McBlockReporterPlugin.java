@@ -20,10 +20,11 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class McBlockReporterPlugin extends JavaPlugin {
@@ -40,14 +41,26 @@ public class McBlockReporterPlugin extends JavaPlugin {
     private String monitorUpdateUrl;
     private String monitorUpdateMethod;
     
-    // Changed from Set<Location> to Map<Location, Integer> to store index
-    private final Map<Location, Integer> monitoredBlockIndexMap = new HashMap<>();
-    private final Set<Location> updateCooldownLocations = new HashSet<>();
+    // Monitored locations mapped to their config index, plus locations with an update already scheduled.
+    // Both are concurrent because region-threaded servers (Folia) fire events for different regions in parallel.
+    private final Map<Location, Integer> monitoredBlockIndexMap = new ConcurrentHashMap<>();
+    private final Set<Location> updateCooldownLocations = ConcurrentHashMap.newKeySet();
+    private BlockTaskScheduler blockTaskScheduler;
 
     @Override
     public void onEnable() {
         getLogger().info("McBlockReporterPlugin has been enabled!");
         saveDefaultConfig();
+        blockTaskScheduler = new BlockTaskScheduler(this);
+        if (!blockTaskScheduler.isAvailable()) {
+            // The Bukkit scheduler is unsupported on region-threaded servers, so there is nothing to fall back to
+            getLogger().severe("No usable task scheduler on this region-threaded server. Disabling plugin.");
+            getServer().getPluginManager().disablePlugin(this);
+            return;
+        }
+        if (blockTaskScheduler.isRegionThreaded()) {
+            getLogger().info("Region-threaded server detected, block updates will be scheduled on region threads.");
+        }
         apiUrl = getConfig().getString("apiUrl", "UNCONFIGURED_BASE_API_URL");
         
         if ("UNCONFIGURED_BASE_API_URL".equals(apiUrl) || apiUrl.isEmpty()) {
@@ -143,8 +156,9 @@ public class McBlockReporterPlugin extends JavaPlugin {
         blockData.put("material", block.getType().toString());
 
         // Add the numerical index if this block is a monitored one
-        if (monitoredBlockIndexMap.containsKey(location)) {
-            blockData.put("id", monitoredBlockIndexMap.get(location));
+        Integer monitoredIndex = monitoredBlockIndexMap.get(location);
+        if (monitoredIndex != null) {
+            blockData.put("id", monitoredIndex);
         }
 
         // Add block data based on the BlockData
@@ -386,15 +400,55 @@ public class McBlockReporterPlugin extends JavaPlugin {
             return;
         }
         getLogger().info("Sending initial data for " + monitoredBlockIndexMap.size() + " monitored blocks to " + monitorBatchUrl + " via " + monitorBatchMethod + "...");
-        ArrayList<Map<String, Object>> batchData = new ArrayList<>();
+        Map<Location, Map<String, Object>> collected = new ConcurrentHashMap<>();
+        if (!blockTaskScheduler.isRegionThreaded()) {
+            for (Location loc : monitoredBlockIndexMap.keySet()) {
+                collectInitialBlockData(loc, collected);
+            }
+            sendInitialBatch(collected);
+            return;
+        }
+
+        // Region-threaded: each block must be read on the thread owning its region,
+        // so collect the snapshots in parallel and send the batch once the last one is in.
+        AtomicInteger pending = new AtomicInteger(monitoredBlockIndexMap.size());
         for (Location loc : monitoredBlockIndexMap.keySet()) {
-            // Ensure the world and chunk are loaded before getting block data
-            if (!loc.isWorldLoaded() || !loc.getChunk().isLoaded()) {
-                getLogger().warning("Skipping initial data for unloaded location: " + loc.toString());
-                continue;
+            boolean scheduled = blockTaskScheduler.runAt(loc, () -> {
+                try {
+                    collectInitialBlockData(loc, collected);
+                } finally {
+                    if (pending.decrementAndGet() == 0) {
+                        sendInitialBatch(collected);
+                    }
+                }
+            });
+            // A task that was never scheduled still has to count down, or the batch would never be sent
+            if (!scheduled) {
+                getLogger().warning("Skipping initial data for location that could not be scheduled: " + loc.toString());
+                if (pending.decrementAndGet() == 0) {
+                    sendInitialBatch(collected);
+                }
             }
-            batchData.add(buildBlockDataMap(loc, null)); // extraData is null for automated sends
         }
+    }
+
+    private void collectInitialBlockData(Location loc, Map<Location, Map<String, Object>> collected) {
+        // Ensure the world and chunk are loaded before getting block data
+        if (!loc.isWorldLoaded() || !loc.getChunk().isLoaded()) {
+            getLogger().warning("Skipping initial data for unloaded location: " + loc.toString());
+            return;
+        }
+        collected.put(loc, buildBlockDataMap(loc, null)); // extraData is null for automated sends
+    }
+
+    private void sendInitialBatch(Map<Location, Map<String, Object>> collected) {
+        // Send the batch in monitored index order regardless of the order blocks were read in
+        ArrayList<Map<String, Object>> batchData = new ArrayList<>();
+        monitoredBlockIndexMap.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(entry -> collected.get(entry.getKey()))
+                .filter(blockMap -> blockMap != null)
+                .forEach(batchData::add);
 
         if (batchData.isEmpty()) {
             getLogger().info("No loaded blocks to send in initial batch.");
@@ -426,12 +480,13 @@ public class McBlockReporterPlugin extends JavaPlugin {
         return monitoredBlockIndexMap.containsKey(location);
     }
 
-    public boolean isLocationOnUpdateCooldown(Location location) {
-        return updateCooldownLocations.contains(location);
+    public BlockTaskScheduler getBlockTaskScheduler() {
+        return blockTaskScheduler;
     }
 
-    public void addLocationToUpdateCooldown(Location location) {
-        updateCooldownLocations.add(location);
+    // Returns false if the location was already on cooldown. Atomic, so safe to call from several region threads.
+    public boolean addLocationToUpdateCooldown(Location location) {
+        return updateCooldownLocations.add(location);
     }
 
     public void removeLocationFromUpdateCooldown(Location location) {